@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# 기동 시간 벤치마크: 기존 모드(war) vs fast-startup 모드(AOT + AppCDS + Flyway 지연 검증)
+#
+# 각 모드를 여러 번 기동해 첫 요청 응답까지 걸린 시간(time-to-first-request)과
+# 그 시점의 RSS 를 측정합니다. DB 가 필요하므로 .env 와 같은 DB_URL, DB_NAME, DB_PW, JWT_SE 를 설정하고 실행하세요.
+#
+# 사용법: scripts/startup-benchmark.sh [반복 횟수(기본 3)]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-3}"
+PORT="${BENCHMARK_PORT:-18081}"
+URL="http://localhost:${PORT}/api/products"
+# 각 빌드가 clean 으로 target/ 을 지우므로 결과물은 target/ 밖에 보관
+WORK_DIR=".startup-benchmark"
+STORAGE_DIR="$PWD/uploads"
+
+: "${DB_URL:?DB_URL 을 설정하세요}" "${DB_NAME:?DB_NAME 을 설정하세요}" "${DB_PW:?DB_PW 를 설정하세요}" "${JWT_SE:?JWT_SE 를 설정하세요}"
+
+rm -rf "$WORK_DIR"
+mkdir -p "$WORK_DIR/classic" "$WORK_DIR/fast"
+
+echo "==> 기존 모드 빌드 (war)"
+sh ./mvnw -q clean package -DskipTests
+cp target/*.war "$WORK_DIR/classic/app.war"
+
+echo "==> fast-startup 모드 빌드 (AOT + jar 추출 + AppCDS 학습)"
+sh ./mvnw -q -Pfast-startup clean package -DskipTests
+FAST_JAR="app/$(basename target/*.jar)"
+java -Djarmode=tools -jar target/*.jar extract --destination "$WORK_DIR/fast/app" > /dev/null
+(cd "$WORK_DIR/fast" && java -XX:ArchiveClassesAtExit=app.jsa -Xlog:cds=off \
+    -Dspring.context.exit=onRefresh -Dspring.aot.enabled=true -Dspring.profiles.active=cds-training \
+    -jar "$FAST_JAR" > training.log 2>&1)
+
+# $1: 모드 이름, 나머지: java 실행 인자 (작업 디렉터리는 $WORK_DIR/<모드>)
+measure() {
+    local mode="$1"
+    shift
+    local start end pid rss
+
+    start=$(date +%s%N)
+    # 두 모드가 같은 DB 를 쓰므로 이미지 저장소도 같은 디렉터리여야 함 (ImageStorageCheck)
+    (cd "$WORK_DIR/$mode" && exec java -Dserver.port="$PORT" -Dimage.storage-dir="$STORAGE_DIR" "$@" > "run.log" 2>&1) &
+    pid=$! # 서브셸이 exec 하므로 java 프로세스의 pid
+
+    until curl -sf -o /dev/null "$URL"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "$mode 기동 실패, $WORK_DIR/$mode/run.log 를 확인하세요." >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    end=$(date +%s%N)
+
+    rss=$(awk '/VmRSS/ { print $2 }' "/proc/$pid/status")
+
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+
+    printf "%-8s %8d ms %8d MB\n" "$mode" $(( (end - start) / 1000000 )) $(( rss / 1024 ))
+}
+
+echo
+printf "%-8s %11s %11s\n" "mode" "first-req" "RSS"
+for i in $(seq 1 "$RUNS"); do
+    measure classic -jar app.war
+    measure fast -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -Dflyway.deferred-validation=true -jar "$FAST_JAR"
+done
@@ -2,8 +2,12 @@ package faceTime;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // UserProfileWriteBehind 주기적 flush, CacheVersionPoller 폴링
+@EnableCaching // product, user 캐시 (노드 간 무효화는 CacheVersionPoller)
 public class FaceTimeApplication {
 
     public static void main(String[] args) {
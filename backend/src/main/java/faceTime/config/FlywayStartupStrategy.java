@@ -0,0 +1,75 @@
+package faceTime.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.ValidateResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 시 Flyway 실행 방식
+ *
+ * - 기본: migrate (적용된 마이그레이션 checksum 검증 포함)
+ * - flyway.deferred-validation=true: 검증 없이 migrate 하고, 검증은 기동 완료 후 백그라운드에서 수행
+ *   (레플리카가 동시에 뜰 때마다 검증으로 기동이 늦어지는 것을 줄이기 위함, 실패 시 ERROR 로그)
+ * - spring.context.exit=onRefresh (CDS 학습 실행): DB 없이 기동하므로 건너뜀
+ *
+ * AOT 빌드에서는 @Conditional 이 빌드 시점에 고정되므로, 프로퍼티는 실행 시점에 여기서 확인합니다.
+ */
+@Component
+public class FlywayStartupStrategy implements FlywayMigrationStrategy {
+
+    private static final Logger log = LoggerFactory.getLogger(FlywayStartupStrategy.class);
+
+    @Value("${flyway.deferred-validation:false}")
+    private boolean deferredValidation;
+
+    @Value("${spring.context.exit:}")
+    private String contextExit;
+
+    private Flyway pendingValidation;
+
+    @Override
+    public void migrate(Flyway flyway) {
+        if ("onRefresh".equals(contextExit)) {
+            log.info("CDS 학습 실행이므로 Flyway 마이그레이션을 건너뜁니다.");
+            return;
+        }
+
+        if (!deferredValidation) {
+            flyway.migrate();
+            return;
+        }
+
+        Flyway.configure(flyway.getConfiguration().getClassLoader())
+                .configuration(flyway.getConfiguration())
+                .validateOnMigrate(false)
+                .load()
+                .migrate();
+        pendingValidation = flyway;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void validateAfterStartup() {
+        Flyway flyway = pendingValidation;
+        if (flyway == null) {
+            return;
+        }
+        pendingValidation = null;
+
+        Thread thread = new Thread(() -> {
+            ValidateResult result = flyway.validateWithResult();
+            if (result.validationSuccessful) {
+                log.info("Flyway 지연 검증 완료");
+            } else {
+                log.error("Flyway 지연 검증 실패: {}", result.getAllErrorMessages());
+            }
+        }, "flyway-deferred-validation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
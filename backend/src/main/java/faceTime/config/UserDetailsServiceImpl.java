@@ -1,10 +1,12 @@
 package faceTime.config;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import faceTime.config.cache.CacheVersionService;
 import faceTime.user.UserRepository;
 
 @Service // <-- 1. Service 빈으로 등록
@@ -17,6 +19,7 @@ public class UserDetailsServiceImpl implements UserDetailsService { // <-- 2. Us
     }
 
     @Override
+    @Cacheable(cacheNames = CacheVersionService.USER) // JWT 필터가 요청마다 호출하므로 캐시
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         // 3. SecurityConfig에 있던 로직을 그대로 가져옴
         return userRepository.findByEmail(username)
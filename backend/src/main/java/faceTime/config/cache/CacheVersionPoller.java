@@ -0,0 +1,93 @@
+package faceTime.config.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * cache_version 테이블을 주기적으로 읽어, 다른 노드에서 바뀐 region 의 캐시만 비웁니다.
+ *
+ * - 최대 stale 시간은 cache.coherence.max-staleness-ms (폴링 주기) 로 조절합니다.
+ * - 폴링 한 번은 작은 테이블 전체 SELECT 1회이며, 횟수/소요 시간을 기록해
+ *   cache.coherence.stats-log-interval-ms 마다 INFO 로그로 요약합니다.
+ */
+@Component
+public class CacheVersionPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheVersionPoller.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheVersionService cacheVersionService;
+
+    // region -> 이 노드가 마지막으로 확인한 버전
+    private final Map<String, Long> seenVersions = new ConcurrentHashMap<>();
+
+    // 폴링 비용 측정용
+    private final AtomicLong pollCount = new AtomicLong();
+    private final AtomicLong totalPollNanos = new AtomicLong();
+    private final AtomicLong lastPollNanos = new AtomicLong();
+    private final AtomicLong maxPollNanos = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public CacheVersionPoller(JdbcTemplate jdbcTemplate, CacheVersionService cacheVersionService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheVersionService = cacheVersionService;
+    }
+
+    @Scheduled(fixedDelayString = "${cache.coherence.max-staleness-ms:5000}")
+    public void poll() {
+        long start = System.nanoTime();
+
+        jdbcTemplate.query("SELECT region, version FROM cache_version", rs -> {
+            String region = rs.getString("region");
+            long version = rs.getLong("version");
+
+            // 처음 보는 region 도 비웁니다. (첫 폴링 전에 채워진 캐시가 오래된 값일 수 있음)
+            Long previous = seenVersions.put(region, version);
+            if (previous == null || previous != version) {
+                cacheVersionService.evictLocal(region);
+                invalidationCount.incrementAndGet();
+                log.debug("캐시 무효화: region={}, version {} -> {}", region, previous, version);
+            }
+        });
+
+        long elapsed = System.nanoTime() - start;
+        pollCount.incrementAndGet();
+        totalPollNanos.addAndGet(elapsed);
+        lastPollNanos.set(elapsed);
+        maxPollNanos.accumulateAndGet(elapsed, Math::max);
+        log.trace("cache_version 폴링 {}us", TimeUnit.NANOSECONDS.toMicros(elapsed));
+    }
+
+    @Scheduled(fixedRateString = "${cache.coherence.stats-log-interval-ms:600000}",
+            initialDelayString = "${cache.coherence.stats-log-interval-ms:600000}")
+    public void logStats() {
+        log.info("cache_version 폴링 통계: {}회, 평균 {}us, 최근 {}us, 최대 {}us, 무효화 {}회",
+                getPollCount(), getAveragePollMicros(), getLastPollMicros(),
+                TimeUnit.NANOSECONDS.toMicros(maxPollNanos.get()), invalidationCount.get());
+    }
+
+    public long getPollCount() {
+        return pollCount.get();
+    }
+
+    public long getLastPollMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(lastPollNanos.get());
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    public long getAveragePollMicros() {
+        long count = pollCount.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalPollNanos.get() / count);
+    }
+}
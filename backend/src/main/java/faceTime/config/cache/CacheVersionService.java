@@ -0,0 +1,59 @@
+package faceTime.config.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * cache_version 테이블을 이용한 노드 간 캐시 무효화
+ *
+ * 쓰기를 하는 서비스는 {@link #bump(String)}을 호출해 해당 region 의 버전을 올립니다.
+ * 다른 노드는 {@link CacheVersionPoller}가 바뀐 버전을 감지해 같은 region 의 캐시를 비웁니다.
+ */
+@Service
+public class CacheVersionService {
+
+    // 캐시 region 이름 (= CacheManager 의 캐시 이름 = cache_version.region)
+    public static final String PRODUCT = "product";
+    public static final String USER = "user";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+
+    public CacheVersionService(JdbcTemplate jdbcTemplate, CacheManager cacheManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * region 의 버전을 올립니다.
+     * 트랜잭션 안에서 호출되면 같은 트랜잭션으로 반영되고, 이 노드의 캐시는 커밋 후에 비웁니다.
+     */
+    public void bump(String region) {
+        jdbcTemplate.update("UPDATE cache_version SET version = version + 1 WHERE region = ?", region);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocal(region);
+                }
+            });
+        } else {
+            evictLocal(region);
+        }
+    }
+
+    /**
+     * 이 노드의 region 캐시를 비웁니다.
+     */
+    public void evictLocal(String region) {
+        Cache cache = cacheManager.getCache(region);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
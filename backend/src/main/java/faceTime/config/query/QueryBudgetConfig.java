@@ -0,0 +1,28 @@
+package faceTime.config.query;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QueryBudgetConfig {
+
+    /**
+     * DataSource 빈을 {@link QueryCountingDataSource}로 감싸 요청별 SQL/행 수를 집계합니다.
+     * (BeanPostProcessor 는 다른 빈보다 먼저 만들어져야 하므로 static)
+     */
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
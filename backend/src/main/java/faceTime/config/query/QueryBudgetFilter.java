@@ -0,0 +1,63 @@
+package faceTime.config.query;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청별 SQL 실행 수/행 수를 집계하고, 예산을 넘거나 느린 요청은 SQL 모양과 함께 로그를 남깁니다.
+ * (spring.jpa.show-sql 대신 운영에서 쓰는 용도)
+ *
+ * JwtAuthenticationFilter 의 사용자 조회까지 포함하도록 Security 필터보다 먼저 실행됩니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    // 테스트에서 요청별 통계를 꺼낼 때 사용하는 request attribute
+    public static final String STATS_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".STATS";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    @Value("${query-budget.max-statements:10}")
+    private int maxStatements;
+
+    @Value("${query-budget.slow-request-ms:500}")
+    private long slowRequestMs;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestQueryStats stats = RequestQueryStats.begin();
+        request.setAttribute(STATS_ATTRIBUTE, stats);
+        long start = System.currentTimeMillis();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsedMs = System.currentTimeMillis() - start;
+            RequestQueryStats.end();
+
+            if (stats.getStatementCount() > maxStatements || elapsedMs > slowRequestMs) {
+                log.warn("쿼리 예산 초과 또는 느린 요청: {} {} - {}ms, SQL {}회, 행 {}개\n{}",
+                        request.getMethod(), request.getRequestURI(), elapsedMs,
+                        stats.getStatementCount(), stats.getRowCount(), stats.describeShapes());
+            } else if (log.isDebugEnabled()) {
+                log.debug("{} {} - {}ms, SQL {}회, 행 {}개", request.getMethod(), request.getRequestURI(),
+                        elapsedMs, stats.getStatementCount(), stats.getRowCount());
+            }
+        }
+    }
+}
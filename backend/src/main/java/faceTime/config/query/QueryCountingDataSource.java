@@ -0,0 +1,150 @@
+package faceTime.config.query;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션/Statement/ResultSet 을 감싸 실행된 SQL 과 읽은 행 수를 현재 요청의 {@link RequestQueryStats}에 기록합니다.
+ * JDBC 단에서 세므로 JPA(Hibernate) 와 JdbcTemplate 으로 실행한 SQL 이 모두 집계됩니다.
+ *
+ * 요청 밖(스케줄러 등)에서 얻은 커넥션은 감싸지 않으므로 추가 비용이 없습니다.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats == null) {
+            return connection;
+        }
+        return proxy(Connection.class, connection, new ConnectionHandler(connection, stats));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private abstract static class CountingHandler implements InvocationHandler {
+
+        private final Object target;
+        protected final RequestQueryStats stats;
+
+        CountingHandler(Object target, RequestQueryStats stats) {
+            this.target = target;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            // equals/hashCode 는 프록시 자신 기준 (커넥션 풀/트랜잭션 동기화의 Map 키로 쓰임)
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return afterInvoke(method, args, result);
+        }
+
+        abstract Object afterInvoke(Method method, Object[] args, Object result);
+    }
+
+    private static class ConnectionHandler extends CountingHandler {
+
+        ConnectionHandler(Connection connection, RequestQueryStats stats) {
+            super(connection, stats);
+        }
+
+        @Override
+        Object afterInvoke(Method method, Object[] args, Object result) {
+            // PreparedStatement 는 실행 시점에 SQL 을 알 수 없으므로 준비할 때의 SQL 을 기억
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, statement, new StatementHandler(statement, stats, (String) args[0]));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, statement, new StatementHandler(statement, stats, (String) args[0]));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, statement, new StatementHandler(statement, stats, null));
+            }
+            return result;
+        }
+    }
+
+    private static class StatementHandler extends CountingHandler {
+
+        private final String preparedSql;
+
+        StatementHandler(Statement statement, RequestQueryStats stats, String preparedSql) {
+            super(statement, stats);
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        Object afterInvoke(Method method, Object[] args, Object result) {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                // Statement.execute*(sql) 는 인자로, PreparedStatement.execute*() 는 준비한 SQL 로 기록 (배치는 1회)
+                if (args != null && args.length > 0 && args[0] instanceof String sql) {
+                    stats.recordStatement(sql);
+                } else {
+                    stats.recordStatement(preparedSql != null ? preparedSql : "(batch)");
+                }
+            }
+            if (result instanceof ResultSet resultSet && (name.equals("executeQuery") || name.equals("getResultSet"))) {
+                return proxy(ResultSet.class, resultSet, new ResultSetHandler(resultSet, stats));
+            }
+            return result;
+        }
+    }
+
+    private static class ResultSetHandler extends CountingHandler {
+
+        ResultSetHandler(ResultSet resultSet, RequestQueryStats stats) {
+            super(resultSet, stats);
+        }
+
+        @Override
+        Object afterInvoke(Method method, Object[] args, Object result) {
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                stats.recordRow();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package faceTime.config.query;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * HTTP 요청 하나 동안 실행된 SQL 통계
+ * (요청 스레드의 ThreadLocal 에 보관되며, 요청 밖(스케줄러 등)의 SQL 은 집계하지 않습니다)
+ */
+public class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private static final int MAX_SHAPE_LENGTH = 200;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int rowCount;
+
+    // 실행한 SQL 원문 (공백 정리/집계는 로그나 테스트 메시지를 만들 때만 수행)
+    private final List<String> statements = new ArrayList<>();
+
+    static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql) {
+        statements.add(sql);
+    }
+
+    void recordRow() {
+        rowCount++;
+    }
+
+    public int getStatementCount() {
+        return statements.size();
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * SQL 모양(공백 정리) -> 실행 횟수
+     */
+    public Map<String, Integer> getStatementShapes() {
+        Map<String, Integer> shapes = new LinkedHashMap<>();
+        for (String sql : statements) {
+            shapes.merge(toShape(sql), 1, Integer::sum);
+        }
+        return shapes;
+    }
+
+    /**
+     * 로그/테스트 실패 메시지용 요약 (많이 실행된 SQL 순)
+     */
+    public String describeShapes() {
+        return getStatementShapes().entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .map(entry -> entry.getValue() + "x " + entry.getKey())
+                .collect(Collectors.joining("\n  ", "  ", ""));
+    }
+
+    private static String toShape(String sql) {
+        String shape = WHITESPACE.matcher(sql).replaceAll(" ").trim();
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+}
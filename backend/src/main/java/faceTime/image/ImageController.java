@@ -0,0 +1,74 @@
+package faceTime.image;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import faceTime.user.User;
+
+@RestController
+@RequestMapping(ImageController.BASE_PATH) // 이미지 API 경로
+public class ImageController {
+
+    public static final String BASE_PATH = "/api/images";
+
+    private final ImageStorage imageStorage;
+    private final ImageService imageService;
+
+    public ImageController(ImageStorage imageStorage, ImageService imageService) {
+        this.imageStorage = imageStorage;
+        this.imageService = imageService;
+    }
+
+    /**
+     * 이미지 조회 API
+     * (예: /api/images/{imageId}/small) -> 128px 썸네일
+     * (예: /api/images/{imageId}/original) -> 원본
+     *
+     * 인증이 필요한 API 이므로(프론트엔드는 <Image source={{ uri, headers }}> 로 토큰 전송)
+     * 공유 캐시에는 남기지 않고, 썸네일은 바뀌지 않으므로 브라우저/앱 캐시에만 1년(immutable) 보관합니다.
+     *
+     * 얼굴 사진이므로 업로드한 본인만 조회할 수 있습니다. (다른 사용자에게는 존재 여부도 알리지 않도록 404)
+     */
+    @GetMapping("/{imageId}/{variant}")
+    public ResponseEntity<Resource> getImage(@AuthenticationPrincipal User user,
+                                             @PathVariable String imageId, @PathVariable String variant) {
+        if (!imageStorage.isValidImageId(imageId) || user == null || !imageService.isOwner(imageId, user.getUserId())) {
+            return ResponseEntity.notFound().build();
+        }
+
+        if (ImageStorage.ORIGINAL_FILE_NAME.equals(variant)) {
+            // 원본은 썸네일이 준비되기 전에만 쓰이므로 짧게 캐시
+            return serve(imageStorage.getOriginalPath(imageId), CacheControl.maxAge(1, TimeUnit.HOURS).cachePrivate());
+        }
+
+        ImageVariant imageVariant = ImageVariant.fromPath(variant);
+        if (imageVariant == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return serve(imageStorage.getVariantPath(imageId, imageVariant),
+                CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable());
+    }
+
+    private ResponseEntity<Resource> serve(Path path, CacheControl cacheControl) {
+        if (!Files.isRegularFile(path)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .contentType(MediaType.IMAGE_JPEG) // 프론트엔드는 JPEG 로 업로드
+                .body(new FileSystemResource(path));
+    }
+}
@@ -0,0 +1,133 @@
+package faceTime.image;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * image_derivative_job 테이블을 작업 큐로 사용하는 썸네일 생성 워커
+ *
+ * - 작업은 DB에 남으므로 서버가 재시작되어도 유실되지 않습니다.
+ * - 고정 크기 스레드 풀에서 실행하며, 풀에 여유가 있을 때만 작업을 가져옵니다.
+ * - 시도 횟수는 작업을 가져갈 때 올립니다. 처리 중 프로세스가 죽어도(OOM 등) 횟수가 남아,
+ *   image.derivative.max-attempts 를 넘긴 작업은 다시 시도하지 않고 FAILED 로 남깁니다.
+ * - image.derivative.enabled=false 이면 작업은 등록만 하고 가져가지 않습니다. (폴링 SELECT 없음)
+ */
+@Component
+public class ImageDerivativeWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageDerivativeWorker.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final ThreadPoolExecutor executor;
+    private final int maxAttempts;
+    private final boolean enabled;
+
+    public ImageDerivativeWorker(JdbcTemplate jdbcTemplate, ThumbnailGenerator thumbnailGenerator,
+                                 @Value("${image.derivative.worker-threads:2}") int workerThreads,
+                                 @Value("${image.derivative.max-attempts:3}") int maxAttempts,
+                                 @Value("${image.derivative.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.thumbnailGenerator = thumbnailGenerator;
+        this.maxAttempts = maxAttempts;
+        this.enabled = enabled;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerThreads),
+                r -> {
+                    Thread thread = new Thread(r, "image-derivative-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 이전 실행에서 처리 중에 종료된 작업을 다시 대기 상태로 돌립니다. 시도 횟수를 다 쓴 작업은 FAILED 로 둡니다.
+     * (썸네일 생성은 덮어쓰기라 다른 노드와 중복 실행되어도 결과는 같습니다)
+     * 빈 초기화 중에는 DB에 접근하지 않도록 기동 완료 후 실행합니다. (CDS 학습 실행은 DB 없이 기동)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverInterruptedJobs() {
+        if (!enabled) {
+            return;
+        }
+        int recovered = jdbcTemplate.update(
+                "UPDATE image_derivative_job SET status = CASE WHEN attempts >= ? THEN 'FAILED' ELSE 'PENDING' END, "
+                        + "last_error = COALESCE(last_error, '처리 중 중단됨') WHERE status = 'PROCESSING'",
+                maxAttempts);
+        if (recovered > 0) {
+            log.info("중단된 썸네일 작업 {}건을 복구했습니다. (시도 횟수를 다 쓴 작업은 FAILED)", recovered);
+        }
+    }
+
+    /**
+     * 원본 저장 후 썸네일 생성 작업을 등록합니다.
+     */
+    public void enqueue(String imageId) {
+        jdbcTemplate.update("INSERT INTO image_derivative_job (image_id, status) VALUES (?, 'PENDING')", imageId);
+    }
+
+    @Scheduled(fixedDelayString = "${image.derivative.poll-interval-ms:1000}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+        int capacity = executor.getMaximumPoolSize() + executor.getQueue().remainingCapacity()
+                - executor.getActiveCount() - executor.getQueue().size();
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<String> imageIds = jdbcTemplate.queryForList(
+                "SELECT image_id FROM image_derivative_job WHERE status = 'PENDING' ORDER BY created_at LIMIT ?",
+                String.class, capacity);
+
+        for (String imageId : imageIds) {
+            // 여러 노드가 같은 작업을 가져가지 않도록 상태를 바꾼 쪽만 처리 (시도 횟수는 처리 전에 기록)
+            int claimed = jdbcTemplate.update(
+                    "UPDATE image_derivative_job SET status = 'PROCESSING', attempts = attempts + 1 "
+                            + "WHERE image_id = ? AND status = 'PENDING'",
+                    imageId);
+            if (claimed == 1) {
+                executor.execute(() -> process(imageId));
+            }
+        }
+    }
+
+    private void process(String imageId) {
+        try {
+            thumbnailGenerator.generate(imageId);
+            jdbcTemplate.update("UPDATE image_derivative_job SET status = 'DONE' WHERE image_id = ?", imageId);
+        } catch (Exception | OutOfMemoryError e) {
+            // OOM 은 디코딩 버퍼를 놓친 뒤에 잡히므로 대개 상태를 기록할 수 있고, 못 하더라도 시도 횟수는 이미 남아 있음
+            log.warn("썸네일 생성 실패: imageId={}, {}", imageId, e.toString());
+            String error = e.toString();
+            jdbcTemplate.update(
+                    "UPDATE image_derivative_job SET status = CASE WHEN attempts >= ? THEN 'FAILED' ELSE 'PENDING' END, "
+                            + "last_error = ? WHERE image_id = ?",
+                    maxAttempts, error.substring(0, Math.min(error.length(), 500)), imageId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 진행 중인 작업은 끝까지 기다리고, 못 끝낸 작업은 다음 시작 시 recoverInterruptedJobs 가 복구
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
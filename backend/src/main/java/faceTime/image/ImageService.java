@@ -0,0 +1,80 @@
+package faceTime.image;
+
+import java.nio.file.Files;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 진단 이미지 저장 및 응답용 URL 생성
+ */
+@Service
+public class ImageService {
+
+    // 화면별 표시 크기(px) - 프론트엔드 히스토리 목록 / 결과 화면 기준
+    public static final int HISTORY_DISPLAY_SIZE = 96;
+    public static final int RESULT_DISPLAY_SIZE = 300;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageStorage imageStorage;
+    private final ImageDerivativeWorker imageDerivativeWorker;
+
+    public ImageService(JdbcTemplate jdbcTemplate, ImageStorage imageStorage, ImageDerivativeWorker imageDerivativeWorker) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.imageStorage = imageStorage;
+        this.imageDerivativeWorker = imageDerivativeWorker;
+    }
+
+    /**
+     * 원본 사진을 저장하고 소유자와 썸네일 생성 작업을 등록합니다.
+     * @param userId 업로드한 사용자 (이 사용자만 이미지를 조회할 수 있음)
+     * @return 저장된 이미지 ID
+     */
+    public String store(Long userId, byte[] imageBytes) {
+        String imageId = imageStorage.storeOriginal(imageBytes);
+        jdbcTemplate.update("INSERT INTO diagnosis_image (image_id, user_id) VALUES (?, ?)", imageId, userId);
+        imageDerivativeWorker.enqueue(imageId);
+        return imageId;
+    }
+
+    /**
+     * 이미지를 업로드한 사용자인지 확인합니다.
+     */
+    public boolean isOwner(String imageId, Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM diagnosis_image WHERE image_id = ? AND user_id = ?", Integer.class, imageId, userId);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 히스토리 목록(HistoryItem.imageUrl)에 넣을 URL
+     */
+    public String getHistoryImageUrl(String imageId) {
+        return getImageUrl(imageId, HISTORY_DISPLAY_SIZE);
+    }
+
+    /**
+     * 진단 결과(SkinAnalysisResponse.imageUrl)에 넣을 URL
+     */
+    public String getResultImageUrl(String imageId) {
+        return getImageUrl(imageId, RESULT_DISPLAY_SIZE);
+    }
+
+    /**
+     * 표시 크기에 맞는 가장 작은 썸네일 URL 을 반환합니다.
+     * 아직 썸네일이 만들어지지 않았으면 원본 URL 을 반환합니다. (DB 조회 없이 파일 존재 여부로 판단)
+     */
+    public String getImageUrl(String imageId, int displaySize) {
+        if (imageId == null) {
+            return null;
+        }
+        ImageVariant variant = ImageVariant.smallestFor(displaySize);
+        if (Files.exists(imageStorage.getVariantPath(imageId, variant))) {
+            return ImageController.BASE_PATH + "/" + imageId + "/" + variant.name().toLowerCase();
+        }
+        return ImageController.BASE_PATH + "/" + imageId + "/" + ImageStorage.ORIGINAL_FILE_NAME;
+    }
+}
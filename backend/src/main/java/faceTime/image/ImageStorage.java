@@ -0,0 +1,107 @@
+package faceTime.image;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진단 이미지 파일 저장소
+ *
+ * {image.storage-dir}/{imageId}/original      <- 업로드된 원본
+ * {image.storage-dir}/{imageId}/small.jpg ...  <- ThumbnailGenerator 가 만든 썸네일
+ * {image.storage-dir}/.storage-id             <- 저장소 식별자 (ImageStorageCheck 가 노드 간 공유 여부 확인)
+ *
+ * 백엔드를 여러 대 띄우면 썸네일 작업과 이미지 조회가 아무 노드에서나 실행되므로
+ * image.storage-dir 는 모든 노드가 같은 디렉터리(NFS, 공유 볼륨 등)를 가리켜야 합니다.
+ */
+@Component
+public class ImageStorage {
+
+    public static final String ORIGINAL_FILE_NAME = "original";
+
+    private static final String STORAGE_ID_FILE_NAME = ".storage-id";
+
+    // imageId 는 UUID 만 허용 (경로 조작 방지)
+    private static final Pattern IMAGE_ID_PATTERN = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
+    private final Path rootDir;
+
+    public ImageStorage(@Value("${image.storage-dir:./uploads}") String storageDir) {
+        this.rootDir = Paths.get(storageDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 원본 이미지를 저장하고 새 imageId 를 반환합니다.
+     */
+    public String storeOriginal(byte[] bytes) {
+        String imageId = UUID.randomUUID().toString();
+        write(getOriginalPath(imageId), bytes);
+        return imageId;
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 옮겨서, 읽는 쪽이 쓰다 만 파일을 보지 않도록 합니다.
+     */
+    public void write(Path target, byte[] bytes) {
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 저장 실패: " + target, e);
+        }
+    }
+
+    /**
+     * 저장소 식별자를 읽습니다. 없으면 새로 만듭니다.
+     * (공유 저장소에서 여러 노드가 동시에 만들어도 먼저 만든 값 하나만 남음)
+     */
+    public String readOrCreateStorageId() {
+        Path idFile = rootDir.resolve(STORAGE_ID_FILE_NAME);
+        try {
+            Files.createDirectories(rootDir);
+            try {
+                Files.writeString(idFile, UUID.randomUUID().toString(), StandardOpenOption.CREATE_NEW);
+            } catch (FileAlreadyExistsException e) {
+                // 다른 노드(또는 이전 실행)가 이미 만든 값을 사용
+            }
+            return Files.readString(idFile).strip();
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 저장소 식별자를 읽을 수 없습니다: " + idFile, e);
+        }
+    }
+
+    public Path getRootDir() {
+        return rootDir;
+    }
+
+    public boolean isValidImageId(String imageId) {
+        return imageId != null && IMAGE_ID_PATTERN.matcher(imageId).matches();
+    }
+
+    public Path getOriginalPath(String imageId) {
+        return getImageDir(imageId).resolve(ORIGINAL_FILE_NAME);
+    }
+
+    public Path getVariantPath(String imageId, ImageVariant variant) {
+        return getImageDir(imageId).resolve(variant.getFileName());
+    }
+
+    private Path getImageDir(String imageId) {
+        if (!isValidImageId(imageId)) {
+            throw new IllegalArgumentException("잘못된 이미지 ID 입니다: " + imageId);
+        }
+        return rootDir.resolve(imageId);
+    }
+}
@@ -0,0 +1,51 @@
+package faceTime.image;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 노드가 같은 image.storage-dir 를 쓰는지 기동 시 확인합니다.
+ *
+ * 처음 기동한 노드가 저장소의 .storage-id 값을 image_storage 테이블에 기록하고,
+ * 이후 노드는 자기 저장소의 값과 비교합니다. 다르면 노드마다 로컬 디렉터리를 쓰는 것이므로
+ * (다른 노드가 저장한 이미지를 찾지 못함) 기동을 중단합니다.
+ */
+@Component
+public class ImageStorageCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageStorageCheck.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageStorage imageStorage;
+
+    public ImageStorageCheck(JdbcTemplate jdbcTemplate, ImageStorage imageStorage) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.imageStorage = imageStorage;
+    }
+
+    // 빈 초기화 중에는 DB에 접근하지 않도록 기동 완료 후 실행합니다. (CDS 학습 실행은 DB 없이 기동)
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifySharedStorage() {
+        String localId = imageStorage.readOrCreateStorageId();
+        try {
+            jdbcTemplate.update("INSERT INTO image_storage (id, storage_id) VALUES (1, ?)", localId);
+            log.info("이미지 저장소를 등록했습니다: {} ({})", imageStorage.getRootDir(), localId);
+            return;
+        } catch (DuplicateKeyException e) {
+            // 이미 다른 노드(또는 이전 실행)가 등록함
+        }
+
+        String registeredId = jdbcTemplate.queryForObject("SELECT storage_id FROM image_storage WHERE id = 1", String.class);
+        if (!localId.equals(registeredId)) {
+            throw new IllegalStateException("image.storage-dir(" + imageStorage.getRootDir() + ")가 다른 노드와 공유된 저장소가 아닙니다. "
+                    + "모든 노드가 같은 디렉터리(NFS, 공유 볼륨 등)를 쓰도록 설정하세요. "
+                    + "저장소를 의도적으로 새로 만들었다면 image_storage 행을 삭제한 뒤 다시 기동하세요. "
+                    + "(저장소 " + localId + ", 등록된 값 " + registeredId + ")");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package faceTime.image;
+
+/**
+ * 원본 사진으로부터 만드는 썸네일 크기
+ * (긴 변 기준 픽셀, 비율은 유지)
+ */
+public enum ImageVariant {
+    SMALL(128),  // 히스토리 목록
+    MEDIUM(320), // 결과 화면
+    LARGE(720);  // 확대 보기
+
+    private final int maxSize;
+
+    ImageVariant(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public String getFileName() {
+        return name().toLowerCase() + ".jpg";
+    }
+
+    /**
+     * 화면에 표시할 크기(px) 이상인 가장 작은 썸네일을 고릅니다.
+     */
+    public static ImageVariant smallestFor(int displaySize) {
+        for (ImageVariant variant : values()) {
+            if (variant.maxSize >= displaySize) {
+                return variant;
+            }
+        }
+        return LARGE;
+    }
+
+    /**
+     * URL 경로 값("small" 등)을 변환합니다. 없으면 null
+     */
+    public static ImageVariant fromPath(String value) {
+        for (ImageVariant variant : values()) {
+            if (variant.name().equalsIgnoreCase(value)) {
+                return variant;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,133 @@
+package faceTime.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * JDK ImageIO 만으로 원본 사진의 JPEG 썸네일을 만듭니다. (네이티브 라이브러리 없음)
+ */
+@Component
+public class ThumbnailGenerator {
+
+    private final ImageStorage imageStorage;
+    private final float jpegQuality;
+    private final long maxPixels;
+
+    public ThumbnailGenerator(ImageStorage imageStorage,
+                              @Value("${image.derivative.jpeg-quality:0.8}") float jpegQuality,
+                              @Value("${image.derivative.max-pixels:40000000}") long maxPixels) {
+        this.imageStorage = imageStorage;
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * 모든 {@link ImageVariant} 썸네일을 생성합니다. (이미 있으면 덮어씀)
+     */
+    public void generate(String imageId) throws IOException {
+        BufferedImage original = readOriginal(imageStorage.getOriginalPath(imageId));
+
+        // 큰 썸네일부터 만들고, 다음 썸네일은 직전 결과에서 줄여서 비용을 줄입니다.
+        BufferedImage source = original;
+        ImageVariant[] variants = ImageVariant.values();
+        for (int i = variants.length - 1; i >= 0; i--) {
+            ImageVariant variant = variants[i];
+            source = resize(source, variant.getMaxSize());
+            imageStorage.write(imageStorage.getVariantPath(imageId, variant), toJpeg(source));
+        }
+    }
+
+    /**
+     * 헤더의 가로/세로만 먼저 읽어, 디코딩하면 메모리가 부족할 만큼 큰 이미지는 거절합니다.
+     * (작은 파일도 헤더에 거대한 크기를 적어 OOM 을 일으킬 수 있음)
+     */
+    private BufferedImage readOriginal(Path path) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("읽을 수 없는 이미지 형식입니다: " + path);
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new IOException("이미지가 너무 큽니다: " + reader.getWidth(0) + "x" + reader.getHeight(0));
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxSize 가 되도록 비율을 유지해 줄입니다. (원본보다 키우지는 않음)
+     * 한 번에 크게 줄이면 화질이 깨지므로 절반씩 단계적으로 줄입니다.
+     */
+    static BufferedImage resize(BufferedImage image, int maxSize) {
+        int longSide = Math.max(image.getWidth(), image.getHeight());
+        double scale = Math.min(1.0, (double) maxSize / longSide);
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    // JPEG 은 알파 채널이 없으므로 흰 배경의 RGB 이미지로 그립니다.
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private byte[] toJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,11 +1,14 @@
 package faceTime.product;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import faceTime.config.cache.CacheVersionService;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -13,22 +16,30 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class ProductService {
 
+    // 캐시하는 피부 타입 (임의의 쿼리 값으로 캐시가 무한히 커지지 않도록 전체 조회와 이 값들만 캐시)
+    public static final Set<String> CACHEABLE_SKIN_TYPES = Set.of("지성", "건성", "복합성");
+
     private final ProductRepository productRepository;
 
     /**
      * 피부 타입별 제품을 조회합니다.
-     * @param skinType (Optional) "지성", "건성", "복합성"
+     * @param skinType (Optional) "지성", "건성", "복합성" - 앞뒤 공백은 무시, 빈 값은 전체 조회
      * @return DTO로 변환된 제품 목록
      */
+    @Cacheable(cacheNames = CacheVersionService.PRODUCT,
+            key = "T(faceTime.product.ProductService).normalizeSkinType(#skinType) ?: ''",
+            condition = "T(faceTime.product.ProductService).isCacheable(#skinType)")
     public List<ProductDto.ProductResponse> getProducts(String skinType) {
+        // 캐시 키와 같은 값으로 조회 (호출하는 쪽의 공백 처리에 의존하지 않음)
+        String normalizedSkinType = normalizeSkinType(skinType);
         List<Product> products;
 
-        if (skinType == null || skinType.isBlank()) {
+        if (normalizedSkinType == null) {
             // 1. 쿼리 파라미터가 없으면 모든 제품 조회
             products = productRepository.findAll();
         } else {
             // 2. 쿼리 파라미터가 있으면, 해당 타입 + '모든피부' 제품 조회
-            products = productRepository.findMatchingProducts(skinType);
+            products = productRepository.findMatchingProducts(normalizedSkinType);
         }
 
         // 엔티티 리스트를 DTO 리스트로 변환하여 반환
@@ -36,4 +47,19 @@ public class ProductService {
                 .map(ProductDto.ProductResponse::new)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    /**
+     * 앞뒤 공백을 제거합니다. 빈 값은 null (전체 조회)
+     */
+    public static String normalizeSkinType(String skinType) {
+        return (skinType == null || skinType.isBlank()) ? null : skinType.strip();
+    }
+
+    /**
+     * 전체 조회와 알려진 피부 타입만 캐시합니다.
+     */
+    public static boolean isCacheable(String skinType) {
+        String normalizedSkinType = normalizeSkinType(skinType);
+        return normalizedSkinType == null || CACHEABLE_SKIN_TYPES.contains(normalizedSkinType);
+    }
+}
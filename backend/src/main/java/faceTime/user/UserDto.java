@@ -15,9 +15,16 @@ public class UserDto {
         private String skinType; // (이 값은 나중에 피부 진단 후 업데이트할 수 있습니다)
 
         public MyPageResponse(User user) {
+            this(user, user.getSkinType());
+        }
+
+        /**
+         * 아직 DB에 반영되지 않은(write-behind 대기 중인) 피부 타입을 덮어쓸 때 사용합니다.
+         */
+        public MyPageResponse(User user, String skinType) {
             this.email = user.getEmail();
             this.name = user.getName();
-            this.skinType = user.getSkinType();
+            this.skinType = skinType;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,176 @@
+package faceTime.user;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import faceTime.config.cache.CacheVersionService;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * users.skin_type 갱신을 모아서(write-behind) 배치로 반영하는 컴포넌트
+ *
+ * - 진단마다 users 행을 바로 UPDATE 하면 같은 사용자 행에 락 경합이 생기므로,
+ *   사용자별 최신 값만 메모리에 보관합니다. (last-write-wins)
+ * - 주기(user.write-behind.flush-interval-ms) 또는 대기 건수(user.write-behind.batch-size)에
+ *   도달하면 JDBC 배치 UPDATE로 한 번에 반영합니다.
+ * - 배치가 실패하면 행 단위로 다시 반영하며, 데이터 문제로 영원히 실패할 행은 로그를 남기고 버립니다.
+ * - 대기 건수가 user.write-behind.max-pending 에 이르면 새 사용자의 값은 바로 UPDATE 합니다. (메모리 상한)
+ * - 애플리케이션 종료 시(@PreDestroy) 남은 값을 모두 반영합니다.
+ * - 반영 전 값은 {@link #getPendingSkinType(Long)}으로 조회할 수 있습니다. (/api/mypage)
+ */
+@Component
+public class UserProfileWriteBehind {
+
+    private static final Logger log = LoggerFactory.getLogger(UserProfileWriteBehind.class);
+
+    private static final String UPDATE_SKIN_TYPE_SQL = "UPDATE users SET skin_type = ? WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheVersionService cacheVersionService;
+
+    // userId -> 아직 DB에 반영되지 않은 최신 skin_type
+    private final Map<Long, String> pendingSkinTypes = new ConcurrentHashMap<>();
+
+    // 건수 기준 flush는 요청 스레드를 막지 않도록 별도 스레드에서 실행
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "user-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    private final int batchSize;
+    private final int maxPending;
+
+    public UserProfileWriteBehind(JdbcTemplate jdbcTemplate, CacheVersionService cacheVersionService,
+                                  @Value("${user.write-behind.batch-size:100}") int batchSize,
+                                  @Value("${user.write-behind.max-pending:10000}") int maxPending) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheVersionService = cacheVersionService;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * 피부 진단 결과로 사용자의 skin_type 변경을 예약합니다.
+     * 같은 사용자에 대한 이전 대기 값은 덮어씁니다.
+     */
+    public void submitSkinType(Long userId, String skinType) {
+        // 대기 맵이 가득 차면(DB 반영이 밀리는 중) 호출한 스레드에서 바로 반영해 속도를 늦춤 (back-pressure)
+        if (pendingSkinTypes.size() >= maxPending && !pendingSkinTypes.containsKey(userId)) {
+            jdbcTemplate.update(UPDATE_SKIN_TYPE_SQL, skinType, userId);
+            cacheVersionService.bump(CacheVersionService.USER);
+            return;
+        }
+
+        pendingSkinTypes.put(userId, skinType);
+
+        if (pendingSkinTypes.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 skin_type 이 있으면 반환합니다.
+     */
+    public Optional<String> getPendingSkinType(Long userId) {
+        return Optional.ofNullable(pendingSkinTypes.get(userId));
+    }
+
+    @Scheduled(fixedDelayString = "${user.write-behind.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 대기 중인 값을 JDBC 배치로 반영합니다.
+     * (동시에 두 번 flush 되면 오래된 값이 나중에 쓰일 수 있으므로 synchronized)
+     *
+     * @return 반영한 사용자 수
+     */
+    public synchronized int flush() {
+        if (pendingSkinTypes.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<Long, String>> snapshot = new ArrayList<>(pendingSkinTypes.size());
+        for (Map.Entry<Long, String> entry : pendingSkinTypes.entrySet()) {
+            snapshot.add(Map.entry(entry.getKey(), entry.getValue()));
+        }
+
+        List<Map.Entry<Long, String>> written = new ArrayList<>(snapshot.size());
+        for (int from = 0; from < snapshot.size(); from += batchSize) {
+            List<Map.Entry<Long, String>> chunk = snapshot.subList(from, Math.min(from + batchSize, snapshot.size()));
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_SKIN_TYPE_SQL, chunk, chunk.size(), (ps, entry) -> {
+                    ps.setString(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+                written.addAll(chunk);
+            } catch (RuntimeException e) {
+                log.warn("skin_type write-behind 배치 실패 ({}건), 행 단위로 재시도: {}", chunk.size(), e.getMessage());
+                if (!flushOneByOne(chunk, written)) {
+                    break; // DB 장애로 보고 나머지는 다음 flush 에서 재시도
+                }
+            }
+        }
+
+        if (!written.isEmpty()) {
+            // 캐시된 User(UserDetails)의 skin_type 이 바뀌었으므로 노드 간 무효화
+            // 대기 값을 지우기 전에 비워야 /api/mypage 가 그 사이에 옛 값을 캐시에서 읽지 않음
+            cacheVersionService.bump(CacheVersionService.USER);
+
+            // flush 도중 새 값이 들어온 사용자는 남겨둡니다. (값이 같을 때만 제거)
+            written.forEach(entry -> pendingSkinTypes.remove(entry.getKey(), entry.getValue()));
+        }
+
+        log.debug("skin_type write-behind flush 완료: {}/{}건", written.size(), snapshot.size());
+        return written.size();
+    }
+
+    /**
+     * 실패한 배치를 한 행씩 반영합니다.
+     * 데이터 문제(컬럼 길이 초과 등)로 실패한 행은 다시 시도해도 실패하므로 버립니다.
+     *
+     * @return 일시적인 오류 없이 끝까지 진행했으면 true
+     */
+    private boolean flushOneByOne(List<Map.Entry<Long, String>> chunk, List<Map.Entry<Long, String>> written) {
+        for (Map.Entry<Long, String> entry : chunk) {
+            try {
+                jdbcTemplate.update(UPDATE_SKIN_TYPE_SQL, entry.getValue(), entry.getKey());
+                written.add(entry);
+            } catch (DataIntegrityViolationException e) {
+                log.error("skin_type 반영 불가로 버림: userId={}, skinType={}, {}",
+                        entry.getKey(), entry.getValue(), e.getMessage());
+                pendingSkinTypes.remove(entry.getKey(), entry.getValue());
+            } catch (RuntimeException e) {
+                log.warn("skin_type write-behind flush 중단, 다음 주기에 재시도: {}", e.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        flush();
+    }
+}
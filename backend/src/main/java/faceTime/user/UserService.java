@@ -10,9 +10,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserProfileWriteBehind userProfileWriteBehind;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, UserProfileWriteBehind userProfileWriteBehind) {
         this.userRepository = userRepository;
+        this.userProfileWriteBehind = userProfileWriteBehind;
     }
 
     /**
@@ -23,14 +25,30 @@ public class UserService {
         // 1. SecurityContext에서 현재 인증된 사용자의 Authentication 객체를 가져옵니다.
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        // 2. Authentication 객체에서 사용자 이름(우리는 email을 사용)을 가져옵니다.
-        String userEmail = authentication.getName();
-
-        // 3. email을 사용해 DB에서 사용자를 찾습니다.
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("로그인한 사용자를 찾을 수 없습니다: " + userEmail));
+        // 2. JWT 필터가 이미 조회한 User 가 principal 이면 그대로 사용합니다. (findByEmail 중복 조회 방지)
+        User user;
+        if (authentication.getPrincipal() instanceof User principal) {
+            user = principal;
+        } else {
+            // 3. 아니면 사용자 이름(우리는 email을 사용)으로 DB에서 사용자를 찾습니다.
+            String userEmail = authentication.getName();
+            user = userRepository.findByEmail(userEmail)
+                    .orElseThrow(() -> new UsernameNotFoundException("로그인한 사용자를 찾을 수 없습니다: " + userEmail));
+        }
+
+        // 4. 아직 DB에 반영되지 않은 피부 타입이 있으면 그 값을 우선합니다.
+        String skinType = userProfileWriteBehind.getPendingSkinType(user.getUserId())
+                .orElse(user.getSkinType());
+
+        // 5. User 엔티티를 MyPageResponse DTO로 변환하여 반환합니다.
+        return new UserDto.MyPageResponse(user, skinType);
+    }
 
-        // 4. User 엔티티를 MyPageResponse DTO로 변환하여 반환합니다.
-        return new UserDto.MyPageResponse(user);
+    /**
+     * 피부 진단 결과로 사용자의 피부 타입을 갱신합니다.
+     * (진단 트랜잭션에서 users 행을 잠그지 않도록 write-behind로 반영됩니다)
+     */
+    public void updateSkinType(Long userId, String skinType) {
+        userProfileWriteBehind.submitSkinType(userId, skinType);
     }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+/* V3: 노드 간 캐시 일관성을 위한 버전 테이블 */
+/* 각 서비스가 쓰기 시 해당 region 의 version 을 올리고, 각 노드는 주기적으로 읽어 바뀐 region 의 캐시만 비웁니다. */
+
+CREATE TABLE cache_version (
+    region VARCHAR(50) PRIMARY KEY, -- 캐시 이름 ("product", "user")
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO cache_version (region, version) VALUES
+('product', 0),
+('user', 0);
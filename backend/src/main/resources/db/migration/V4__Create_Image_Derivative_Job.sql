@@ -0,0 +1,11 @@
+/* V4: 진단 이미지 썸네일 생성 작업 큐 */
+/* 원본 저장 시 PENDING 으로 등록되고, ImageDerivativeWorker 가 가져가 썸네일을 만듭니다. (재시작해도 작업이 유지됨) */
+
+CREATE TABLE image_derivative_job (
+    image_id VARCHAR(36) PRIMARY KEY, -- 저장된 원본 이미지 ID (UUID)
+    status VARCHAR(20) NOT NULL, -- "PENDING", "PROCESSING", "DONE", "FAILED"
+    attempts INT NOT NULL DEFAULT 0,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_image_derivative_job_status (status, created_at)
+);
@@ -0,0 +1,16 @@
+/* V5: 진단 이미지 소유자 및 이미지 저장소 공유 확인 */
+/* 얼굴 사진은 업로드한 사용자만 조회할 수 있도록 소유자를 기록합니다. */
+
+CREATE TABLE diagnosis_image (
+    image_id VARCHAR(36) PRIMARY KEY, -- 저장된 원본 이미지 ID (UUID)
+    user_id BIGINT NOT NULL, -- 업로드한 사용자
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_diagnosis_image_user_id (user_id),
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+/* 모든 노드가 같은 image.storage-dir 를 보는지 확인하는 값 (저장소의 .storage-id 파일과 비교) */
+CREATE TABLE image_storage (
+    id INT PRIMARY KEY, -- 항상 1
+    storage_id VARCHAR(36) NOT NULL
+);
@@ -0,0 +1,128 @@
+package faceTime.config;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.flywaydb.core.api.ResourceProvider;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.StreamUtils;
+
+/**
+ * 테스트(H2, MySQL 모드)에서 운영 마이그레이션을 그대로 실행하기 위한 설정
+ *
+ * V1 스키마는 MySQL 기준이라 여러 테이블에 같은 인덱스 이름(idx_user_id)을 씁니다.
+ * H2는 인덱스 이름이 스키마 단위로 유일해야 하므로, 읽을 때만 "테이블명_인덱스명"으로 바꿔줍니다.
+ * (마이그레이션 파일 자체는 수정하지 않으므로 운영 DB의 checksum 에는 영향이 없습니다)
+ */
+@Configuration
+@Profile("test")
+public class H2FlywayTestConfig {
+
+    private static final String MIGRATION_DIR = "db/migration/";
+    private static final Pattern CREATE_TABLE = Pattern.compile("CREATE TABLE (\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern INLINE_INDEX = Pattern.compile("\\bINDEX (\\w+) \\(", Pattern.CASE_INSENSITIVE);
+
+    @Bean
+    public FlywayConfigurationCustomizer h2MigrationCustomizer() {
+        return configuration -> configuration.resourceProvider(new H2CompatibleResourceProvider(loadMigrations()));
+    }
+
+    private static List<LoadableResource> loadMigrations() {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver()
+                    .getResources("classpath*:" + MIGRATION_DIR + "*.sql");
+            List<LoadableResource> migrations = new ArrayList<>();
+            for (Resource resource : resources) {
+                String sql = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+                migrations.add(new MigrationResource(resource.getFilename(), renameInlineIndexes(sql)));
+            }
+            return migrations;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String renameInlineIndexes(String sql) {
+        StringBuilder result = new StringBuilder();
+        for (String statement : sql.split("(?<=;)")) {
+            Matcher table = CREATE_TABLE.matcher(statement);
+            if (table.find()) {
+                String prefix = table.group(1) + "_";
+                statement = INLINE_INDEX.matcher(statement)
+                        .replaceAll(m -> "INDEX " + prefix + m.group(1) + " (");
+            }
+            result.append(statement);
+        }
+        return result.toString();
+    }
+
+    private record H2CompatibleResourceProvider(List<LoadableResource> migrations) implements ResourceProvider {
+
+        @Override
+        public LoadableResource getResource(String name) {
+            return migrations.stream()
+                    .filter(resource -> resource.getRelativePath().equals(name))
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        @Override
+        public Collection<LoadableResource> getResources(String prefix, String[] suffixes) {
+            return migrations.stream()
+                    .filter(resource -> resource.getFilename().startsWith(prefix))
+                    .filter(resource -> Arrays.stream(suffixes).anyMatch(resource.getFilename()::endsWith))
+                    .toList();
+        }
+    }
+
+    private static class MigrationResource extends LoadableResource {
+
+        private final String filename;
+        private final String sql;
+
+        MigrationResource(String filename, String sql) {
+            this.filename = filename;
+            this.sql = sql;
+        }
+
+        @Override
+        public Reader read() {
+            return new StringReader(sql);
+        }
+
+        @Override
+        public String getAbsolutePath() {
+            return MIGRATION_DIR + filename;
+        }
+
+        @Override
+        public String getAbsolutePathOnDisk() {
+            return getAbsolutePath();
+        }
+
+        @Override
+        public String getFilename() {
+            return filename;
+        }
+
+        @Override
+        public String getRelativePath() {
+            return filename;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package faceTime.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import faceTime.FaceTimeApplication;
+import faceTime.product.ProductService;
+
+/**
+ * 하나의 임베디드 DB를 공유하는 두 노드(애플리케이션 컨텍스트) 사이의 캐시 무효화 테스트
+ */
+class CacheCoherenceTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(FaceTimeApplication.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:coherence;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        // 테스트에서 poll()을 직접 호출하므로 스케줄 폴링은 사실상 끔
+                        "--cache.coherence.max-staleness-ms=3600000");
+    }
+
+    @Test
+    void productWriteOnOneNodeInvalidatesOtherNodeAfterPoll() {
+        ProductService productsOnB = nodeB.getBean(ProductService.class);
+        CacheVersionPoller pollerOnB = nodeB.getBean(CacheVersionPoller.class);
+        pollerOnB.poll(); // 현재 버전 기록
+
+        int before = productsOnB.getProducts(null).size();
+
+        // 노드 A 에서 제품 추가 + 버전 증가
+        nodeA.getBean(JdbcTemplate.class).update(
+                "INSERT INTO product (name, skin_type, description) VALUES ('테스트 제품', '지성', '테스트')");
+        nodeA.getBean(CacheVersionService.class).bump(CacheVersionService.PRODUCT);
+
+        // 폴링 전에는 노드 B 캐시가 그대로 (stale)
+        assertThat(productsOnB.getProducts(null)).hasSize(before);
+
+        pollerOnB.poll();
+
+        assertThat(productsOnB.getProducts(null)).hasSize(before + 1);
+        assertThat(pollerOnB.getPollCount()).isGreaterThanOrEqualTo(2);
+        assertThat(pollerOnB.getInvalidationCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void localCachesAreBoundedInSizeAndAge() {
+        // user 캐시는 비밀번호 해시를 포함한 User 엔티티를 이메일별로 보관하므로 무한히 쌓이면 안 됨
+        for (String region : new String[] {CacheVersionService.USER, CacheVersionService.PRODUCT}) {
+            Object nativeCache = nodeB.getBean(CacheManager.class).getCache(region).getNativeCache();
+            assertThat(nativeCache).isInstanceOf(Cache.class);
+            var policy = ((Cache<?, ?>) nativeCache).policy();
+            assertThat(policy.eviction()).isPresent();
+            assertThat(policy.expireAfterWrite()).isPresent();
+        }
+    }
+
+    @Test
+    void pollerDoesNotShareSingleSchedulerThread() {
+        // 폴링이 write-behind flush / 썸네일 dispatch 뒤에 밀리지 않아야 max-staleness 가 지켜짐
+        assertThat(nodeB.getBean(ThreadPoolTaskScheduler.class).getPoolSize()).isGreaterThan(1);
+    }
+
+    @Test
+    void pollWithoutChangesKeepsCache() {
+        ProductService productsOnB = nodeB.getBean(ProductService.class);
+        CacheVersionPoller pollerOnB = nodeB.getBean(CacheVersionPoller.class);
+        pollerOnB.poll();
+
+        productsOnB.getProducts("건성");
+        pollerOnB.poll();
+
+        assertThat(nodeB.getBean(CacheManager.class)
+                .getCache(CacheVersionService.PRODUCT).get("건성")).isNotNull();
+    }
+}
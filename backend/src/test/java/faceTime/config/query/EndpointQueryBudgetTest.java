@@ -0,0 +1,104 @@
+package faceTime.config.query;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import faceTime.FaceTimeApplication;
+import faceTime.image.ImageService;
+import faceTime.image.ImageStorage;
+import faceTime.image.ImageVariant;
+import faceTime.user.UserRepository;
+
+/**
+ * 엔드포인트별 쿼리 예산 (캐시가 비어 있는 최악의 경우 기준)
+ * 예산을 넘으면 실패 메시지에 실행된 SQL 모양이 출력됩니다.
+ */
+@SpringBootTest(classes = FaceTimeApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EndpointQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ImageStorage imageStorage;
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void products() throws Exception {
+        QueryBudget.of(mockMvc.perform(get("/api/products")).andExpect(status().isOk()))
+                .atMostStatements(1);
+        QueryBudget.of(mockMvc.perform(get("/api/products").param("skinType", "지성")).andExpect(status().isOk()))
+                .atMostStatements(1);
+    }
+
+    @Test
+    void mypage() throws Exception {
+        String token = TestAccounts.signupAndLogin(mockMvc, "budget-mypage@test.com");
+
+        QueryBudget.of(mockMvc.perform(get("/api/mypage").header("Authorization", "Bearer " + token))
+                        .andExpect(status().isOk()))
+                .atMostStatements(1)
+                .atMostRows(1);
+    }
+
+    @Test
+    void login() throws Exception {
+        TestAccounts.signup(mockMvc, "budget-login@test.com");
+
+        QueryBudget.of(mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"budget-login@test.com\",\"password\":\"password\"}"))
+                        .andExpect(status().isOk()))
+                .atMostStatements(1);
+    }
+
+    @Test
+    void signupRequest() throws Exception {
+        // 이메일 중복 확인 + INSERT
+        QueryBudget.of(mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"budget-signup@test.com\",\"password\":\"password\",\"name\":\"테스트\"}"))
+                        .andExpect(status().isOk()))
+                .atMostStatements(2);
+    }
+
+    @Test
+    void image() throws Exception {
+        String token = TestAccounts.signupAndLogin(mockMvc, "budget-image@test.com");
+        Long userId = userRepository.findByEmail("budget-image@test.com").orElseThrow().getUserId();
+        String imageId = imageService.store(userId, new byte[] {1});
+        imageStorage.write(imageStorage.getVariantPath(imageId, ImageVariant.SMALL), new byte[] {1});
+
+        // 파일은 디스크에서 읽으므로 JWT 사용자 조회 + 소유자 확인만 허용
+        QueryBudget.of(mockMvc.perform(get("/api/images/{id}/small", imageId).header("Authorization", "Bearer " + token))
+                        .andExpect(status().isOk()))
+                .atMostStatements(2)
+                .atMostRows(2);
+    }
+}
@@ -0,0 +1,45 @@
+package faceTime.config.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.test.web.servlet.ResultActions;
+
+/**
+ * MockMvc 요청 하나의 쿼리 예산을 검증하는 테스트 DSL
+ *
+ * <pre>
+ * QueryBudget.of(mockMvc.perform(get("/api/products"))).atMostStatements(1);
+ * </pre>
+ */
+public final class QueryBudget {
+
+    private final String request;
+    private final RequestQueryStats stats;
+
+    private QueryBudget(String request, RequestQueryStats stats) {
+        this.request = request;
+        this.stats = stats;
+    }
+
+    public static QueryBudget of(ResultActions actions) {
+        var servletRequest = actions.andReturn().getRequest();
+        RequestQueryStats stats = (RequestQueryStats) servletRequest.getAttribute(QueryBudgetFilter.STATS_ATTRIBUTE);
+        String request = servletRequest.getMethod() + " " + servletRequest.getRequestURI();
+        assertThat(stats).as("%s 에 QueryBudgetFilter 가 적용되지 않았습니다", request).isNotNull();
+        return new QueryBudget(request, stats);
+    }
+
+    public QueryBudget atMostStatements(int max) {
+        assertThat(stats.getStatementCount())
+                .as("%s SQL 실행 수 (예산 %d)\n%s", request, max, stats.describeShapes())
+                .isLessThanOrEqualTo(max);
+        return this;
+    }
+
+    public QueryBudget atMostRows(int max) {
+        assertThat(stats.getRowCount())
+                .as("%s 로딩한 행 수 (예산 %d)\n%s", request, max, stats.describeShapes())
+                .isLessThanOrEqualTo(max);
+        return this;
+    }
+}
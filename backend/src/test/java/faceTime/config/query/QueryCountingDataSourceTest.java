@@ -0,0 +1,64 @@
+package faceTime.config.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JPA 를 거치지 않는 JdbcTemplate SQL 도 집계되는지 확인
+ */
+class QueryCountingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:query-counting;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(new QueryCountingDataSource(h2));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS item (id INT PRIMARY KEY)");
+        jdbcTemplate.update("DELETE FROM item");
+        jdbcTemplate.batchUpdate("INSERT INTO item (id) VALUES (?)", List.of(new Object[] {1}, new Object[] {2}, new Object[] {3}));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestQueryStats.end();
+    }
+
+    @Test
+    void countsStatementsAndRowsInsideRequest() {
+        RequestQueryStats stats = RequestQueryStats.begin();
+
+        jdbcTemplate.queryForList("SELECT id FROM item", Integer.class);
+        jdbcTemplate.queryForObject("SELECT id FROM item WHERE id = ?", Integer.class, 2);
+        jdbcTemplate.update("UPDATE item SET id = id WHERE id = ?", 1);
+
+        assertThat(stats.getStatementCount()).isEqualTo(3);
+        assertThat(stats.getRowCount()).isEqualTo(4);
+        assertThat(stats.getStatementShapes()).containsEntry("SELECT id FROM item WHERE id = ?", 1);
+    }
+
+    @Test
+    void batchCountsAsOneStatement() {
+        RequestQueryStats stats = RequestQueryStats.begin();
+
+        jdbcTemplate.batchUpdate("UPDATE item SET id = id WHERE id = ?",
+                List.of(new Object[] {1}, new Object[] {2}, new Object[] {3}));
+
+        assertThat(stats.getStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresSqlOutsideRequest() {
+        jdbcTemplate.queryForList("SELECT id FROM item", Integer.class);
+
+        assertThat(RequestQueryStats.current()).isNull();
+    }
+}
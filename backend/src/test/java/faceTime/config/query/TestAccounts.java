@@ -0,0 +1,51 @@
+package faceTime.config.query;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * MockMvc 테스트용 회원가입/로그인 도우미 (비밀번호는 모두 "password")
+ *
+ * <pre>
+ * String token = TestAccounts.signupAndLogin(mockMvc, "user@test.com");
+ * mockMvc.perform(get("/api/mypage").header("Authorization", "Bearer " + token));
+ * </pre>
+ */
+public final class TestAccounts {
+
+    public static final String PASSWORD = "password";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private TestAccounts() {
+    }
+
+    public static void signup(MockMvc mockMvc, String email) throws Exception {
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\",\"name\":\"테스트\"}"))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * @return 로그인 응답의 accessToken
+     */
+    public static String login(MockMvc mockMvc, String email) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return OBJECT_MAPPER.readTree(body).get("accessToken").asText();
+    }
+
+    public static String signupAndLogin(MockMvc mockMvc, String email) throws Exception {
+        signup(mockMvc, email);
+        return login(mockMvc, email);
+    }
+}
@@ -0,0 +1,141 @@
+package faceTime.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import faceTime.FaceTimeApplication;
+import faceTime.config.query.TestAccounts;
+import faceTime.user.UserRepository;
+
+@SpringBootTest(classes = FaceTimeApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ImageControllerTest {
+
+    private static final byte[] JPEG_BYTES = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xD9};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImageStorage imageStorage;
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String email;
+    private String token;
+
+    @BeforeEach
+    void login() throws Exception {
+        email = newEmail();
+        token = TestAccounts.signupAndLogin(mockMvc, email);
+    }
+
+    @Test
+    void requiresAuthentication() throws Exception {
+        String imageId = storeWithSmallThumbnail();
+
+        mockMvc.perform(get("/api/images/{id}/small", imageId))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void servesThumbnailWithPrivateImmutableCache() throws Exception {
+        String imageId = storeWithSmallThumbnail();
+
+        String cacheControl = mockMvc.perform(authorized(get("/api/images/{id}/small", imageId)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_JPEG))
+                .andExpect(content().bytes(JPEG_BYTES))
+                .andReturn().getResponse().getHeader("Cache-Control");
+
+        // 인증된 응답이므로 CDN/프록시 같은 공유 캐시에 남으면 안 됨
+        assertThat(cacheControl).contains("private", "max-age=31536000", "immutable").doesNotContain("public");
+    }
+
+    @Test
+    void servesOriginalWithShortPrivateCache() throws Exception {
+        String imageId = storeWithSmallThumbnail();
+
+        mockMvc.perform(authorized(get("/api/images/{id}/original", imageId)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=3600, private"));
+    }
+
+    @Test
+    void otherUsersImageIsNotFound() throws Exception {
+        String imageId = storeWithSmallThumbnail();
+        String otherToken = TestAccounts.signupAndLogin(mockMvc, newEmail());
+
+        // 남의 얼굴 사진은 ID 를 알아도 조회할 수 없고, 존재 여부도 드러내지 않음
+        mockMvc.perform(get("/api/images/{id}/small", imageId).header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/images/{id}/original", imageId).header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void invalidImageIdIsNotFound() throws Exception {
+        mockMvc.perform(authorized(get("/api/images/{id}/small", "not-a-uuid")))
+                .andExpect(status().isNotFound());
+        // 저장소가 만드는 소문자 UUID 형식만 허용
+        mockMvc.perform(authorized(get("/api/images/{id}/small", UUID.randomUUID().toString().toUpperCase())))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void unknownVariantIsNotFound() throws Exception {
+        String imageId = storeWithSmallThumbnail();
+
+        mockMvc.perform(authorized(get("/api/images/{id}/huge", imageId)))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(authorized(get("/api/images/{id}/small.jpg", imageId)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void missingFileIsNotFound() throws Exception {
+        String imageId = storeWithSmallThumbnail();
+
+        // 썸네일이 아직 없는 크기
+        mockMvc.perform(authorized(get("/api/images/{id}/large", imageId)))
+                .andExpect(status().isNotFound());
+        // 저장된 적 없는 이미지
+        mockMvc.perform(authorized(get("/api/images/{id}/small", UUID.randomUUID().toString())))
+                .andExpect(status().isNotFound());
+    }
+
+    private String storeWithSmallThumbnail() {
+        Long userId = userRepository.findByEmail(email).orElseThrow().getUserId();
+        String imageId = imageService.store(userId, JPEG_BYTES);
+        imageStorage.write(imageStorage.getVariantPath(imageId, ImageVariant.SMALL), JPEG_BYTES);
+        return imageId;
+    }
+
+    private static String newEmail() {
+        return "image-" + UUID.randomUUID() + "@test.com";
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + token);
+    }
+}
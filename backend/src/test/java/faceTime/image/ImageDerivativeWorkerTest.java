@@ -0,0 +1,153 @@
+package faceTime.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import faceTime.FaceTimeApplication;
+
+/**
+ * image_derivative_job 상태 전이 (PENDING -> PROCESSING -> DONE / 재시도 / FAILED)
+ * 다른 테스트 컨텍스트의 워커가 작업을 가져가지 않도록 별도 DB 를 쓰고, dispatch() 는 직접 호출합니다.
+ */
+@SpringBootTest(classes = FaceTimeApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:image-worker;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "image.derivative.enabled=true",
+        "image.derivative.poll-interval-ms=3600000",
+        "image.derivative.max-attempts=3"
+})
+@ActiveProfiles("test")
+class ImageDerivativeWorkerTest {
+
+    @Autowired
+    private ImageDerivativeWorker worker;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ThumbnailGenerator thumbnailGenerator;
+
+    @BeforeEach
+    void clearJobs() {
+        jdbcTemplate.update("DELETE FROM image_derivative_job");
+        reset(thumbnailGenerator);
+    }
+
+    @Test
+    void successfulJobIsDone() throws Exception {
+        String imageId = enqueue();
+
+        dispatchAndWait(imageId);
+
+        assertThat(job(imageId)).containsEntry("status", "DONE").containsEntry("attempts", 1);
+        verify(thumbnailGenerator).generate(imageId);
+    }
+
+    @Test
+    void failedJobIsRetriedUntilMaxAttemptsThenFailed() throws Exception {
+        String imageId = enqueue();
+        doThrow(new IOException("깨진 이미지")).when(thumbnailGenerator).generate(imageId);
+
+        dispatchAndWait(imageId);
+        assertThat(job(imageId)).containsEntry("status", "PENDING").containsEntry("attempts", 1);
+
+        dispatchAndWait(imageId);
+        dispatchAndWait(imageId);
+        Map<String, Object> job = job(imageId);
+        assertThat(job).containsEntry("status", "FAILED").containsEntry("attempts", 3);
+        assertThat((String) job.get("last_error")).contains("깨진 이미지");
+
+        // FAILED 작업은 더 가져가지 않음
+        reset(thumbnailGenerator);
+        worker.dispatch();
+        verify(thumbnailGenerator, never()).generate(anyString());
+    }
+
+    @Test
+    void outOfMemoryErrorDoesNotLeaveJobProcessing() throws Exception {
+        String imageId = enqueue();
+        doThrow(new OutOfMemoryError("Java heap space")).when(thumbnailGenerator).generate(imageId);
+
+        dispatchAndWait(imageId);
+
+        assertThat(job(imageId)).containsEntry("status", "PENDING").containsEntry("attempts", 1);
+    }
+
+    @Test
+    void jobClaimedByAnotherNodeIsNotProcessed() throws Exception {
+        String imageId = UUID.randomUUID().toString();
+        jdbcTemplate.update(
+                "INSERT INTO image_derivative_job (image_id, status, attempts) VALUES (?, 'PROCESSING', 1)", imageId);
+
+        worker.dispatch();
+
+        verify(thumbnailGenerator, never()).generate(anyString());
+        assertThat(job(imageId)).containsEntry("status", "PROCESSING").containsEntry("attempts", 1);
+    }
+
+    @Test
+    void interruptedJobsAreRequeuedUnlessAttemptsAreUsedUp() {
+        // 처리 중 프로세스가 죽은 작업 (시도 횟수는 가져갈 때 이미 기록됨)
+        String retryable = UUID.randomUUID().toString();
+        String poison = UUID.randomUUID().toString();
+        jdbcTemplate.update(
+                "INSERT INTO image_derivative_job (image_id, status, attempts) VALUES (?, 'PROCESSING', 1)", retryable);
+        jdbcTemplate.update(
+                "INSERT INTO image_derivative_job (image_id, status, attempts) VALUES (?, 'PROCESSING', 3)", poison);
+
+        worker.recoverInterruptedJobs();
+
+        assertThat(job(retryable)).containsEntry("status", "PENDING");
+        assertThat(job(poison)).containsEntry("status", "FAILED");
+    }
+
+    @Test
+    void disabledWorkerDoesNotPollJobTable() {
+        JdbcTemplate jdbcTemplateMock = mock(JdbcTemplate.class);
+        ImageDerivativeWorker disabled = new ImageDerivativeWorker(jdbcTemplateMock, thumbnailGenerator, 1, 3, false);
+
+        disabled.dispatch();
+        disabled.recoverInterruptedJobs();
+
+        verifyNoInteractions(jdbcTemplateMock);
+    }
+
+    private String enqueue() {
+        String imageId = UUID.randomUUID().toString();
+        worker.enqueue(imageId);
+        return imageId;
+    }
+
+    // 작업은 워커 스레드에서 실행되므로 PROCESSING 이 끝날 때까지 기다림
+    private void dispatchAndWait(String imageId) throws InterruptedException {
+        worker.dispatch();
+        long deadline = System.currentTimeMillis() + 5000;
+        while ("PROCESSING".equals(job(imageId).get("status"))) {
+            assertThat(System.currentTimeMillis()).as("작업이 끝나지 않음: " + imageId).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private Map<String, Object> job(String imageId) {
+        return jdbcTemplate.queryForMap(
+                "SELECT status, attempts, last_error FROM image_derivative_job WHERE image_id = ?", imageId);
+    }
+}
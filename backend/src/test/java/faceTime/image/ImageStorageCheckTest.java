@@ -0,0 +1,49 @@
+package faceTime.image;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import faceTime.FaceTimeApplication;
+
+/**
+ * 기동한 노드(이 컨텍스트)가 image_storage 에 등록한 저장소와 다른 디렉터리를 쓰는 노드는 기동을 중단해야 함
+ */
+@SpringBootTest(classes = FaceTimeApplication.class)
+@ActiveProfiles("test")
+class ImageStorageCheckTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ImageStorage imageStorage;
+
+    @TempDir
+    Path otherDir;
+
+    @Test
+    void nodeSharingStorageDirStarts() {
+        ImageStorage sameDir = new ImageStorage(imageStorage.getRootDir().toString());
+
+        assertThatCode(() -> new ImageStorageCheck(jdbcTemplate, sameDir).verifySharedStorage())
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void nodeWithLocalStorageDirFails() {
+        ImageStorage localDir = new ImageStorage(otherDir.toString());
+
+        assertThatThrownBy(() -> new ImageStorageCheck(jdbcTemplate, localDir).verifySharedStorage())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("image.storage-dir");
+    }
+}
@@ -0,0 +1,39 @@
+package faceTime.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ImageVariantTest {
+
+    @Test
+    void smallestForPicksSmallestVariantCoveringDisplaySize() {
+        assertThat(ImageVariant.smallestFor(1)).isEqualTo(ImageVariant.SMALL);
+        assertThat(ImageVariant.smallestFor(ImageService.HISTORY_DISPLAY_SIZE)).isEqualTo(ImageVariant.SMALL);
+        assertThat(ImageVariant.smallestFor(128)).isEqualTo(ImageVariant.SMALL);
+        assertThat(ImageVariant.smallestFor(129)).isEqualTo(ImageVariant.MEDIUM);
+        assertThat(ImageVariant.smallestFor(ImageService.RESULT_DISPLAY_SIZE)).isEqualTo(ImageVariant.MEDIUM);
+        assertThat(ImageVariant.smallestFor(720)).isEqualTo(ImageVariant.LARGE);
+    }
+
+    @Test
+    void smallestForFallsBackToLargestVariant() {
+        assertThat(ImageVariant.smallestFor(4000)).isEqualTo(ImageVariant.LARGE);
+    }
+
+    @Test
+    void fromPathIsCaseInsensitiveAndReturnsNullForUnknown() {
+        assertThat(ImageVariant.fromPath("small")).isEqualTo(ImageVariant.SMALL);
+        assertThat(ImageVariant.fromPath("MEDIUM")).isEqualTo(ImageVariant.MEDIUM);
+        assertThat(ImageVariant.fromPath("Large")).isEqualTo(ImageVariant.LARGE);
+        assertThat(ImageVariant.fromPath("original")).isNull();
+        assertThat(ImageVariant.fromPath("small.jpg")).isNull();
+        assertThat(ImageVariant.fromPath("")).isNull();
+        assertThat(ImageVariant.fromPath(null)).isNull();
+    }
+
+    @Test
+    void fileNameIsLowerCaseJpeg() {
+        assertThat(ImageVariant.SMALL.getFileName()).isEqualTo("small.jpg");
+    }
+}
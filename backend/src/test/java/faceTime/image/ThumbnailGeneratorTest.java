@@ -0,0 +1,99 @@
+package faceTime.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ThumbnailGeneratorTest {
+
+    private static final String IMAGE_ID = "0f8fad5b-d9cb-469f-a165-70867728950e";
+
+    @TempDir
+    Path storageDir;
+
+    @Test
+    void resizeKeepsAspectRatio() {
+        BufferedImage landscape = ThumbnailGenerator.resize(new BufferedImage(2000, 1500, BufferedImage.TYPE_INT_RGB), 128);
+        assertThat(landscape.getWidth()).isEqualTo(128);
+        assertThat(landscape.getHeight()).isEqualTo(96);
+
+        BufferedImage portrait = ThumbnailGenerator.resize(new BufferedImage(1080, 1920, BufferedImage.TYPE_INT_RGB), 320);
+        assertThat(portrait.getWidth()).isEqualTo(180);
+        assertThat(portrait.getHeight()).isEqualTo(320);
+    }
+
+    @Test
+    void resizeNeverUpscales() {
+        BufferedImage small = ThumbnailGenerator.resize(new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB), 720);
+        assertThat(small.getWidth()).isEqualTo(100);
+        assertThat(small.getHeight()).isEqualTo(50);
+    }
+
+    @Test
+    void resizeHandlesOnePixelEdges() {
+        BufferedImage dot = ThumbnailGenerator.resize(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB), 128);
+        assertThat(dot.getWidth()).isEqualTo(1);
+        assertThat(dot.getHeight()).isEqualTo(1);
+
+        // 짧은 변이 0 으로 반올림되지 않아야 함
+        BufferedImage wide = ThumbnailGenerator.resize(new BufferedImage(4000, 1, BufferedImage.TYPE_INT_RGB), 128);
+        assertThat(wide.getWidth()).isEqualTo(128);
+        assertThat(wide.getHeight()).isEqualTo(1);
+
+        BufferedImage tall = ThumbnailGenerator.resize(new BufferedImage(1, 4000, BufferedImage.TYPE_INT_RGB), 128);
+        assertThat(tall.getWidth()).isEqualTo(1);
+        assertThat(tall.getHeight()).isEqualTo(128);
+    }
+
+    @Test
+    void generateWritesAllVariants() throws IOException {
+        ImageStorage storage = new ImageStorage(storageDir.toString());
+        storage.write(storage.getOriginalPath(IMAGE_ID), png(1600, 1200));
+
+        new ThumbnailGenerator(storage, 0.8f, 40_000_000L).generate(IMAGE_ID);
+
+        BufferedImage small = ImageIO.read(storage.getVariantPath(IMAGE_ID, ImageVariant.SMALL).toFile());
+        BufferedImage medium = ImageIO.read(storage.getVariantPath(IMAGE_ID, ImageVariant.MEDIUM).toFile());
+        BufferedImage large = ImageIO.read(storage.getVariantPath(IMAGE_ID, ImageVariant.LARGE).toFile());
+        assertThat(small.getWidth()).isEqualTo(128);
+        assertThat(small.getHeight()).isEqualTo(96);
+        assertThat(medium.getWidth()).isEqualTo(320);
+        assertThat(large.getWidth()).isEqualTo(720);
+    }
+
+    @Test
+    void generateRejectsImageOverPixelLimitBeforeDecoding() throws IOException {
+        ImageStorage storage = new ImageStorage(storageDir.toString());
+        storage.write(storage.getOriginalPath(IMAGE_ID), png(200, 200));
+
+        assertThatThrownBy(() -> new ThumbnailGenerator(storage, 0.8f, 100 * 100).generate(IMAGE_ID))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("200x200");
+        assertThat(Files.exists(storage.getVariantPath(IMAGE_ID, ImageVariant.SMALL))).isFalse();
+    }
+
+    @Test
+    void generateRejectsNonImageFile() {
+        ImageStorage storage = new ImageStorage(storageDir.toString());
+        storage.write(storage.getOriginalPath(IMAGE_ID), "not an image".getBytes());
+
+        assertThatThrownBy(() -> new ThumbnailGenerator(storage, 0.8f, 40_000_000L).generate(IMAGE_ID))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
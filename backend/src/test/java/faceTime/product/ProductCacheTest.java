@@ -0,0 +1,80 @@
+package faceTime.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import faceTime.FaceTimeApplication;
+import faceTime.config.cache.CacheVersionService;
+
+@SpringBootTest(classes = FaceTimeApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ProductService productService;
+
+    private Cache productCache;
+
+    @BeforeEach
+    void clearCache() {
+        productCache = cacheManager.getCache(CacheVersionService.PRODUCT);
+        productCache.clear();
+    }
+
+    @Test
+    void skinTypeWithSpacesIsQueriedAndCachedAsTrimmedValue() throws Exception {
+        // V2 샘플 데이터: 지성 3개 + 모든피부 1개
+        mockMvc.perform(get("/api/products").param("skinType", " 지성 "))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4));
+
+        mockMvc.perform(get("/api/products").param("skinType", "지성"))
+                .andExpect(jsonPath("$.length()").value(4));
+        assertThat(productCache.get("지성")).isNotNull();
+        assertThat(productCache.get(" 지성 ")).isNull();
+    }
+
+    @Test
+    void serviceTrimsSkinTypeItselfForKeyAndQuery() {
+        // 컨트롤러를 거치지 않는 호출도 같은 키/조회 결과를 써야 함
+        assertThat(productService.getProducts(" 건성\t")).hasSize(4); // 건성 3개 + 모든피부 1개
+        assertThat(productCache.get("건성")).isNotNull();
+        assertThat(productService.getProducts("건성")).isEqualTo(productService.getProducts(" 건성 "));
+    }
+
+    @Test
+    void unknownSkinTypeIsNotCached() throws Exception {
+        mockMvc.perform(get("/api/products").param("skinType", "random-value"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1)); // 모든피부 제품만
+
+        assertThat(productCache.get("random-value")).isNull();
+    }
+
+    @Test
+    void allProductsAreCachedUnderEmptyKey() throws Exception {
+        mockMvc.perform(get("/api/products").param("skinType", "  "))
+                .andExpect(jsonPath("$.length()").value(10));
+
+        assertThat(productCache.get("")).isNotNull();
+    }
+}
@@ -0,0 +1,83 @@
+package faceTime.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import faceTime.FaceTimeApplication;
+import faceTime.config.query.TestAccounts;
+
+/**
+ * DB에 반영되기 전의 skin_type 이 /api/mypage 에 보이고, flush 후 users 테이블에 반영되는지 확인
+ */
+@SpringBootTest(classes = FaceTimeApplication.class, properties = "user.write-behind.flush-interval-ms=3600000")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MyPagePendingSkinTypeTest {
+
+    private static final String EMAIL = "pending-skin@test.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserProfileWriteBehind userProfileWriteBehind;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void mypageShowsPendingSkinTypeUntilFlushed() throws Exception {
+        String token = TestAccounts.signupAndLogin(mockMvc, EMAIL);
+        Long userId = userRepository.findByEmail(EMAIL).orElseThrow().getUserId();
+
+        userProfileWriteBehind.submitSkinType(userId, "지성");
+
+        mockMvc.perform(get("/api/mypage").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.skinType").value("지성"));
+        assertThat(selectSkinType(userId)).isNull();
+
+        userProfileWriteBehind.flush();
+
+        assertThat(selectSkinType(userId)).isEqualTo("지성");
+        assertThat(userProfileWriteBehind.getPendingSkinType(userId)).isEmpty();
+        mockMvc.perform(get("/api/mypage").header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.skinType").value("지성"));
+    }
+
+    @Test
+    void valueTooLongForColumnIsDroppedWithoutBlockingOthers() {
+        Long valid = insertUser("write-behind-valid@test.com");
+        Long poison = insertUser("write-behind-poison@test.com");
+
+        userProfileWriteBehind.submitSkinType(poison, "x".repeat(101)); // VARCHAR(100) 초과
+        userProfileWriteBehind.submitSkinType(valid, "건성");
+
+        assertThat(userProfileWriteBehind.flush()).isEqualTo(1);
+        assertThat(selectSkinType(valid)).isEqualTo("건성");
+        assertThat(selectSkinType(poison)).isNull();
+        assertThat(userProfileWriteBehind.getPendingSkinType(poison)).isEmpty();
+    }
+
+    private Long insertUser(String email) {
+        jdbcTemplate.update("INSERT INTO users (email, password, name) VALUES (?, 'password', '테스트')", email);
+        return jdbcTemplate.queryForObject("SELECT user_id FROM users WHERE email = ?", Long.class, email);
+    }
+
+    private String selectSkinType(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT skin_type FROM users WHERE user_id = ?", String.class, userId);
+    }
+}
@@ -0,0 +1,220 @@
+package faceTime.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import faceTime.config.cache.CacheVersionService;
+
+class UserProfileWriteBehindTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private CacheVersionService cacheVersionService;
+
+    // batchUpdate 로 전달된 값 (userId -> skinType)
+    private final Map<Long, String> written = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        cacheVersionService = mock(CacheVersionService.class);
+    }
+
+    private UserProfileWriteBehind writeBehind(int batchSize) {
+        return writeBehind(batchSize, 10_000);
+    }
+
+    private UserProfileWriteBehind writeBehind(int batchSize, int maxPending) {
+        return new UserProfileWriteBehind(jdbcTemplate, cacheVersionService, batchSize, maxPending);
+    }
+
+    private void onBatchUpdate(BatchAnswer answer) {
+        doAnswer(invocation -> {
+            Collection<Map.Entry<Long, String>> chunk = invocation.<Collection<Map.Entry<Long, String>>>getArgument(1);
+            answer.apply(new ArrayList<>(chunk));
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), ArgumentMatchers.<Map.Entry<Long, String>>anyCollection(), anyInt(), any());
+    }
+
+    // 행 단위 UPDATE (skinType, userId)
+    private void onSingleUpdate(BatchAnswer answer) {
+        doAnswer(invocation -> {
+            answer.apply(List.of(Map.entry(invocation.<Long>getArgument(2), invocation.<String>getArgument(1))));
+            return 1;
+        }).when(jdbcTemplate).update(anyString(), any(Object[].class));
+    }
+
+    private void recordBatches() {
+        onBatchUpdate(chunk -> chunk.forEach(entry -> written.put(entry.getKey(), entry.getValue())));
+    }
+
+    @Test
+    void lastWriteWinsPerUser() {
+        recordBatches();
+        UserProfileWriteBehind writeBehind = writeBehind(100);
+
+        writeBehind.submitSkinType(1L, "지성");
+        writeBehind.submitSkinType(1L, "건성");
+
+        assertThat(writeBehind.getPendingSkinType(1L)).contains("건성");
+        assertThat(writeBehind.flush()).isEqualTo(1);
+        assertThat(written).containsExactly(Map.entry(1L, "건성"));
+        assertThat(writeBehind.getPendingSkinType(1L)).isEmpty();
+        verify(cacheVersionService).bump(CacheVersionService.USER);
+    }
+
+    @Test
+    void flushesInBackgroundWhenBatchSizeReached() {
+        recordBatches();
+        UserProfileWriteBehind writeBehind = writeBehind(2);
+
+        writeBehind.submitSkinType(1L, "지성");
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), ArgumentMatchers.<Map.Entry<Long, String>>anyCollection(), anyInt(), any());
+
+        writeBehind.submitSkinType(2L, "건성");
+        verify(jdbcTemplate, timeout(2000)).batchUpdate(anyString(), ArgumentMatchers.<Map.Entry<Long, String>>anyCollection(), anyInt(), any());
+        verify(cacheVersionService, timeout(2000)).bump(CacheVersionService.USER);
+        assertThat(written).containsOnly(Map.entry(1L, "지성"), Map.entry(2L, "건성"));
+    }
+
+    @Test
+    void valueSubmittedDuringFlushStaysPending() {
+        UserProfileWriteBehind writeBehind = writeBehind(100);
+        onBatchUpdate(chunk -> writeBehind.submitSkinType(1L, "복합성"));
+
+        writeBehind.submitSkinType(1L, "지성");
+        writeBehind.flush();
+
+        // flush 한 값("지성")과 달라졌으므로 제거되지 않고 다음 flush 대상으로 남음
+        assertThat(writeBehind.getPendingSkinType(1L)).contains("복합성");
+    }
+
+    @Test
+    void failedBatchIsRetriedRowByRowAndPoisonRowIsDropped() {
+        // skin_type 컬럼(VARCHAR(100))보다 긴 값은 몇 번을 재시도해도 실패
+        String tooLong = "x".repeat(101);
+        UserProfileWriteBehind writeBehind = writeBehind(2);
+        BatchAnswer update = chunk -> chunk.forEach(entry -> {
+            if (entry.getValue().equals(tooLong)) {
+                throw new DataIntegrityViolationException("Data too long for column 'skin_type'");
+            }
+            written.put(entry.getKey(), entry.getValue());
+        });
+        onBatchUpdate(chunk -> {
+            if (chunk.stream().anyMatch(entry -> entry.getValue().equals(tooLong))) {
+                throw new DataIntegrityViolationException("Data too long for column 'skin_type'");
+            }
+            update.apply(chunk);
+        });
+        onSingleUpdate(update);
+
+        writeBehind.submitSkinType(1L, "지성");
+        writeBehind.submitSkinType(2L, tooLong);
+        writeBehind.submitSkinType(3L, "건성");
+        writeBehind.submitSkinType(4L, "복합성");
+        writeBehind.submitSkinType(5L, "지성");
+
+        // 건수 기준 flush 가 백그라운드에서 먼저 일부를 반영했을 수 있음 (flush 는 synchronized)
+        writeBehind.flush();
+
+        // 실패한 배치가 뒤의 배치를 막지 않고, 버린 행은 다음 flush 를 다시 막지 않음
+        assertThat(written).containsOnly(Map.entry(1L, "지성"), Map.entry(3L, "건성"),
+                Map.entry(4L, "복합성"), Map.entry(5L, "지성"));
+        assertThat(writeBehind.getPendingSkinType(2L)).isEmpty();
+        assertThat(writeBehind.flush()).isZero();
+        verify(cacheVersionService, atLeastOnce()).bump(CacheVersionService.USER);
+    }
+
+    @Test
+    void transientFailureKeepsValuesPending() {
+        UserProfileWriteBehind writeBehind = writeBehind(100);
+        onBatchUpdate(chunk -> {
+            throw new QueryTimeoutException("timeout");
+        });
+        onSingleUpdate(chunk -> {
+            throw new QueryTimeoutException("timeout");
+        });
+
+        writeBehind.submitSkinType(1L, "지성");
+        writeBehind.submitSkinType(2L, "건성");
+
+        assertThat(writeBehind.flush()).isZero();
+        assertThat(writeBehind.getPendingSkinType(1L)).contains("지성");
+        assertThat(writeBehind.getPendingSkinType(2L)).contains("건성");
+        // DB 장애로 보고 첫 행에서 중단 (행마다 타임아웃을 기다리지 않음)
+        verify(jdbcTemplate, times(1)).update(anyString(), any(Object[].class));
+        verify(cacheVersionService, never()).bump(anyString());
+    }
+
+    @Test
+    void fullPendingMapFallsBackToDirectUpdate() {
+        onSingleUpdate(chunk -> chunk.forEach(entry -> written.put(entry.getKey(), entry.getValue())));
+        UserProfileWriteBehind writeBehind = writeBehind(100, 2);
+
+        writeBehind.submitSkinType(1L, "지성");
+        writeBehind.submitSkinType(2L, "건성");
+        writeBehind.submitSkinType(3L, "복합성");
+        // 이미 대기 중인 사용자는 덮어쓰기라 맵이 커지지 않음
+        writeBehind.submitSkinType(1L, "건성");
+
+        assertThat(written).containsExactly(Map.entry(3L, "복합성"));
+        assertThat(writeBehind.getPendingSkinType(3L)).isEmpty();
+        assertThat(writeBehind.getPendingSkinType(1L)).contains("건성");
+        verify(cacheVersionService).bump(CacheVersionService.USER);
+    }
+
+    @Test
+    void userCacheIsEvictedBeforePendingValueIsRemoved() {
+        recordBatches();
+        UserProfileWriteBehind writeBehind = writeBehind(100);
+        List<Boolean> pendingAtEviction = new ArrayList<>();
+        doAnswer(invocation -> pendingAtEviction.add(writeBehind.getPendingSkinType(1L).isPresent()))
+                .when(cacheVersionService).bump(CacheVersionService.USER);
+
+        writeBehind.submitSkinType(1L, "지성");
+        writeBehind.flush();
+
+        // 캐시를 비우는 순간에도 대기 값이 보여야 /api/mypage 가 옛 값으로 돌아가지 않음
+        assertThat(pendingAtEviction).containsExactly(true);
+        assertThat(writeBehind.getPendingSkinType(1L)).isEmpty();
+    }
+
+    @Test
+    void shutdownFlushesPendingValues() {
+        recordBatches();
+        UserProfileWriteBehind writeBehind = writeBehind(100);
+        writeBehind.submitSkinType(1L, "지성");
+
+        writeBehind.shutdown();
+
+        assertThat(written).containsExactly(Map.entry(1L, "지성"));
+        assertThat(writeBehind.getPendingSkinType(1L)).isEmpty();
+        verify(cacheVersionService, times(1)).bump(CacheVersionService.USER);
+    }
+
+    @FunctionalInterface
+    private interface BatchAnswer {
+        void apply(List<Map.Entry<Long, String>> chunk);
+    }
+}
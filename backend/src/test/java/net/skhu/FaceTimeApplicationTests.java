@@ -2,8 +2,12 @@ package net.skhu;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
-@SpringBootTest
+import faceTime.FaceTimeApplication;
+
+@SpringBootTest(classes = FaceTimeApplication.class)
+@ActiveProfiles("test")
 class FaceTimeApplicationTests {
 
 	@Test